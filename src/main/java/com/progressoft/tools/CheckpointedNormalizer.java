@@ -0,0 +1,466 @@
+package com.progressoft.tools;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * CheckpointedNormalizer applies the same Z-score and Min-Max scaling as
+ * {@link NormalizerImpl}, but streams the destination file line by line and
+ * periodically saves its progress to a checkpoint file. The checkpoint holds
+ * the result of the statistics pass, the byte offset reached in the source
+ * file and the length of the output written so far. Calling the same method
+ * again with the same arguments after a crash continues from the last
+ * checkpoint and produces a byte-identical destination file. The checkpoint
+ * file is deleted once the job completes.
+ *
+ * @version 1.0
+ * @since 2026-10-19
+ */
+
+public class CheckpointedNormalizer implements Normalizer {
+
+	private static final int DEFAULT_CHECKPOINT_INTERVAL = 10000;
+
+	private static final String DELIMITER = ",";
+
+	static final String INPUT_OFFSET = "input.offset";
+
+	static final String OUTPUT_LENGTH = "output.length";
+
+	private static final String[] STATISTICS = { "mean", "standardDeviation", "variance", "median", "min", "max" };
+
+	private final Path checkpointPath;
+
+	private final int checkpointInterval;
+
+	/**
+	 * Constructs a CheckpointedNormalizer that saves a checkpoint every 10000
+	 * lines.
+	 *
+	 * @param checkpointPath The path of the file used to save the progress.
+	 */
+
+	public CheckpointedNormalizer(Path checkpointPath) {
+		this(checkpointPath, DEFAULT_CHECKPOINT_INTERVAL);
+	}
+
+	/**
+	 * Constructs a CheckpointedNormalizer.
+	 *
+	 * @param checkpointPath     The path of the file used to save the progress.
+	 * @param checkpointInterval The number of lines written between checkpoints.
+	 * @throws IllegalArgumentException If the checkpoint path is null or the
+	 *                                  interval is not positive.
+	 */
+
+	public CheckpointedNormalizer(Path checkpointPath, int checkpointInterval) {
+		if (checkpointPath == null)
+			throw new IllegalArgumentException("checkpoint path is null");
+		if (checkpointInterval <= 0)
+			throw new IllegalArgumentException("checkpoint interval must be positive");
+		this.checkpointPath = checkpointPath;
+		this.checkpointInterval = checkpointInterval;
+	}
+
+	/**
+	 * Applies Z-score normalization to a specified column in a CSV file, resuming
+	 * from the checkpoint file if a previous run of the same job was interrupted.
+	 *
+	 * @param csvPath             The path to the source CSV file.
+	 * @param destPath            The path to the destination file where the
+	 *                            normalized data will be written.
+	 * @param columnToStandardize The name of the column to be normalized.
+	 * @return A ScoringSummary object containing the summary statistics of the
+	 *         normalized data.
+	 * @throws IllegalArgumentException If any of the input parameters are null,
+	 *                                  the source file is not found or the
+	 *                                  specified column does not exist.
+	 * @throws UncheckedIOException     If reading or writing any of the files
+	 *                                  fails.
+	 */
+
+	@Override
+	public ScoringSummary zscore(Path csvPath, Path destPath, String columnToStandardize) {
+		return normalize(csvPath, destPath, columnToStandardize, "z");
+	}
+
+	/**
+	 * Applies Min-Max scaling to a specified column in a CSV file, resuming from
+	 * the checkpoint file if a previous run of the same job was interrupted.
+	 *
+	 * @param csvPath        The path to the source CSV file.
+	 * @param destPath       The path to the destination file where the normalized
+	 *                       data will be written.
+	 * @param colToNormalize The name of the column to be normalized.
+	 * @return A ScoringSummary object containing the summary statistics of the
+	 *         normalized data.
+	 * @throws IllegalArgumentException If any of the input parameters are null,
+	 *                                  the source file is not found or the
+	 *                                  specified column does not exist.
+	 * @throws UncheckedIOException     If reading or writing any of the files
+	 *                                  fails.
+	 */
+
+	@Override
+	public ScoringSummary minMaxScaling(Path csvPath, Path destPath, String colToNormalize) {
+		return normalize(csvPath, destPath, colToNormalize, "mm");
+	}
+
+	private ScoringSummary normalize(Path csvPath, Path destPath, String column, String suffix) {
+		// check null values
+		if (csvPath == null)
+			throw new IllegalArgumentException("source file is null");
+		else if (destPath == null)
+			throw new IllegalArgumentException("destination path is null");
+		else if (column == null)
+			throw new IllegalArgumentException("column is null");
+		if (!Files.isRegularFile(csvPath))
+			throw new IllegalArgumentException("source file " + csvPath + " not found");
+
+		try {
+			Properties checkpoint = loadCheckpoint(csvPath, destPath, column, suffix);
+			if (checkpoint == null) {
+				checkpoint = computeStatistics(csvPath, destPath, column, suffix);
+				saveCheckpoint(checkpoint);
+			}
+
+			ScoringSummary summary = new StoredScoringSummary(checkpoint);
+			writeScaledLines(csvPath, destPath, suffix, checkpoint, summary);
+
+			Files.deleteIfExists(checkpointPath);
+			return summary;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * load the checkpoint of an interrupted run of the same job.
+	 *
+	 * @return the checkpoint, or null if there is none or it belongs to another
+	 *         job or to a source file that has changed since.
+	 */
+
+	private Properties loadCheckpoint(Path csvPath, Path destPath, String column, String suffix)
+			throws IOException {
+		Properties checkpoint = new Properties();
+		try (InputStream in = Files.newInputStream(checkpointPath)) {
+			checkpoint.load(in);
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IllegalArgumentException e) {
+			// malformed escape sequence, the checkpoint is corrupted
+			return null;
+		}
+
+		Properties job = describeJob(csvPath, destPath, column, suffix);
+		for (String key : job.stringPropertyNames()) {
+			if (!job.getProperty(key).equals(checkpoint.getProperty(key)))
+				return null;
+		}
+		return isComplete(checkpoint) ? checkpoint : null;
+	}
+
+	/**
+	 * check the checkpoint holds every statistic and position needed to resume.
+	 *
+	 * @return false if any of them is missing or cannot be parsed.
+	 */
+
+	private boolean isComplete(Properties checkpoint) {
+		try {
+			if (Integer.parseInt(checkpoint.getProperty("columnIndex")) < 0
+					|| Long.parseLong(checkpoint.getProperty(INPUT_OFFSET)) < 0
+					|| Long.parseLong(checkpoint.getProperty(OUTPUT_LENGTH)) < 0)
+				return false;
+			for (String key : STATISTICS) {
+				String value = checkpoint.getProperty(key);
+				if (value == null)
+					return false;
+				new BigDecimal(value);
+			}
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * the properties identifying a job, a checkpoint is only resumed when all of
+	 * them match.
+	 */
+
+	private Properties describeJob(Path csvPath, Path destPath, String column, String suffix) throws IOException {
+		Properties job = new Properties();
+		job.setProperty("source", csvPath.toAbsolutePath().toString());
+		job.setProperty("source.size", Long.toString(Files.size(csvPath)));
+		job.setProperty("source.modified", Long.toString(Files.getLastModifiedTime(csvPath).toMillis()));
+		job.setProperty("destination", destPath.toAbsolutePath().toString());
+		job.setProperty("column", column);
+		job.setProperty("suffix", suffix);
+		return job;
+	}
+
+	/**
+	 * read the column values from the source file and calculate the statistics
+	 * needed for scaling.
+	 *
+	 * @return a fresh checkpoint holding the statistics.
+	 */
+
+	private Properties computeStatistics(Path csvPath, Path destPath, String column, String suffix)
+			throws IOException {
+		Properties checkpoint = describeJob(csvPath, destPath, column, suffix);
+		List<BigDecimal> values = new ArrayList<BigDecimal>();
+		int columnIndex;
+
+		try (LineReader reader = new LineReader(csvPath, 0)) {
+			String header = reader.readLine();
+			List<String> titles = header == null ? new ArrayList<String>() : splitLine(header);
+			// Check if column name is exist in the fist line(titles)
+			if (!titles.contains(column))
+				throw new IllegalArgumentException("column " + column + " not found");
+			columnIndex = titles.indexOf(column);
+
+			String line;
+			while ((line = reader.readLine()) != null) {
+				values.add(NormalizerImpl.toBigDecimal(line.split(DELIMITER)[columnIndex]));
+			}
+		}
+
+		ScoringSummaryImpl summary = new ScoringSummaryImpl(values);
+		// standardDeviation() would calculate the variance again, so derive it from this one
+		BigDecimal variance = summary.variance();
+		checkpoint.setProperty("columnIndex", Integer.toString(columnIndex));
+		checkpoint.setProperty("mean", summary.mean().toString());
+		checkpoint.setProperty("standardDeviation", ScoringSummaryImpl.standardDeviationOf(variance).toString());
+		checkpoint.setProperty("variance", variance.toString());
+		checkpoint.setProperty("median", summary.median().toString());
+		checkpoint.setProperty("min", summary.min().toString());
+		checkpoint.setProperty("max", summary.max().toString());
+		checkpoint.setProperty(INPUT_OFFSET, "0");
+		checkpoint.setProperty(OUTPUT_LENGTH, "0");
+		return checkpoint;
+	}
+
+	/**
+	 * write the source lines with the additional scaled column, starting from
+	 * the position recorded in the checkpoint.
+	 */
+
+	private void writeScaledLines(Path csvPath, Path destPath, String suffix, Properties checkpoint,
+			ScoringSummary summary) throws IOException {
+		// Every value is scaled as (value-offset)/divisor, calculate both once
+		BigDecimal offset = "z".equals(suffix) ? summary.mean() : summary.min();
+		BigDecimal divisor = "z".equals(suffix) ? summary.standardDeviation() : summary.max().subtract(summary.min());
+		int columnIndex = Integer.parseInt(checkpoint.getProperty("columnIndex"));
+		long inputOffset = Long.parseLong(checkpoint.getProperty(INPUT_OFFSET));
+		long outputLength = Long.parseLong(checkpoint.getProperty(OUTPUT_LENGTH));
+
+		try (FileChannel output = FileChannel.open(destPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			// Output shorter than recorded means it was replaced, so start the file over
+			if (output.size() < outputLength) {
+				inputOffset = 0;
+				outputLength = 0;
+			}
+			// Drop anything written after the last checkpoint
+			output.truncate(outputLength);
+			output.position(outputLength);
+
+			OutputStream out = Channels.newOutputStream(output);
+			Writer writer = new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()));
+			try (LineReader reader = new LineReader(csvPath, inputOffset)) {
+				boolean header = inputOffset == 0;
+				long linesWritten = 0;
+				String line;
+				while ((line = reader.readLine()) != null) {
+					List<String> values = splitLine(line);
+					if (header) {
+						// Add column with this form: column_suffix
+						values.add(columnIndex + 1, values.get(columnIndex) + "_" + suffix);
+						header = false;
+					} else {
+						BigDecimal value = NormalizerImpl.toBigDecimal(values.get(columnIndex));
+						values.add(columnIndex + 1,
+								value.subtract(offset).divide(divisor, RoundingMode.HALF_EVEN).toString());
+					}
+					writer.write(String.join(DELIMITER, values));
+					writer.write(System.lineSeparator());
+
+					if (++linesWritten % checkpointInterval == 0) {
+						writer.flush();
+						output.force(false);
+						checkpoint.setProperty(INPUT_OFFSET, Long.toString(reader.offset()));
+						checkpoint.setProperty(OUTPUT_LENGTH, Long.toString(output.position()));
+						saveCheckpoint(checkpoint);
+					}
+				}
+			}
+			writer.flush();
+			output.force(false);
+		}
+	}
+
+	private List<String> splitLine(String line) {
+		return Arrays.stream(line.split(DELIMITER)).collect(Collectors.toList());
+	}
+
+	/**
+	 * save the checkpoint by writing it next to the checkpoint path and moving
+	 * it in place, so a crash while saving keeps the previous checkpoint.
+	 */
+
+	private void saveCheckpoint(Properties checkpoint) throws IOException {
+		Path absolute = checkpointPath.toAbsolutePath();
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			checkpoint.store(Channels.newOutputStream(channel), "normalization checkpoint");
+			// The contents must be on disk before the rename, or a power loss may keep an empty checkpoint
+			channel.force(true);
+		}
+		try {
+			Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Reads lines like {@link java.io.BufferedReader#readLine()} while keeping
+	 * track of the byte offset reached in the file.
+	 */
+
+	private static class LineReader implements AutoCloseable {
+
+		private final InputStream in;
+
+		private long offset;
+
+		LineReader(Path path, long offset) throws IOException {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+			channel.position(offset);
+			this.in = new BufferedInputStream(Channels.newInputStream(channel));
+			this.offset = offset;
+		}
+
+		/**
+		 * @return the next line without its terminator, or null at the end of the
+		 *         file.
+		 */
+
+		String readLine() throws IOException {
+			ByteArrayOutputStream line = new ByteArrayOutputStream();
+			int b;
+			while ((b = in.read()) != -1) {
+				offset++;
+				if (b == '\n')
+					return decode(line);
+				if (b == '\r') {
+					in.mark(1);
+					if (in.read() == '\n')
+						offset++;
+					else
+						in.reset();
+					return decode(line);
+				}
+				line.write(b);
+			}
+			return line.size() == 0 ? null : decode(line);
+		}
+
+		long offset() {
+			return offset;
+		}
+
+		private String decode(ByteArrayOutputStream line) {
+			return new String(line.toByteArray(), Charset.defaultCharset());
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+	}
+
+	/**
+	 * ScoringSummary backed by the statistics saved in a checkpoint.
+	 */
+
+	private static class StoredScoringSummary implements ScoringSummary {
+
+		private final BigDecimal mean;
+
+		private final BigDecimal standardDeviation;
+
+		private final BigDecimal variance;
+
+		private final BigDecimal median;
+
+		private final BigDecimal min;
+
+		private final BigDecimal max;
+
+		StoredScoringSummary(Properties checkpoint) {
+			this.mean = new BigDecimal(checkpoint.getProperty("mean"));
+			this.standardDeviation = new BigDecimal(checkpoint.getProperty("standardDeviation"));
+			this.variance = new BigDecimal(checkpoint.getProperty("variance"));
+			this.median = new BigDecimal(checkpoint.getProperty("median"));
+			this.min = new BigDecimal(checkpoint.getProperty("min"));
+			this.max = new BigDecimal(checkpoint.getProperty("max"));
+		}
+
+		@Override
+		public BigDecimal mean() {
+			return mean;
+		}
+
+		@Override
+		public BigDecimal standardDeviation() {
+			return standardDeviation;
+		}
+
+		@Override
+		public BigDecimal variance() {
+			return variance;
+		}
+
+		@Override
+		public BigDecimal median() {
+			return median;
+		}
+
+		@Override
+		public BigDecimal min() {
+			return min;
+		}
+
+		@Override
+		public BigDecimal max() {
+			return max;
+		}
+	}
+}
@@ -0,0 +1,262 @@
+package com.progressoft.tools;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NormalizerCli is the command-line entry point for running {@link Normalizer}
+ * jobs. A job is made of a method (<code>zscore</code> or <code>minmax</code>),
+ * a source file, a destination file, a column and an optional checkpoint file
+ * which runs the job through {@link CheckpointedNormalizer}.
+ *
+ * <pre>
+ * zscore|minmax &lt;source&gt; &lt;destination&gt; &lt;column&gt; [checkpoint]
+ * manifest &lt;file&gt;
+ * daemon &lt;spool-directory&gt;
+ * </pre>
+ *
+ * A manifest holds one job per line with its fields separated by whitespace,
+ * so paths containing spaces cannot be used in a manifest. Blank lines and
+ * lines starting with <code>#</code> are ignored. Relative paths in a manifest
+ * are resolved against the directory of the manifest, which for daemon jobs is
+ * the spool directory. In daemon mode
+ * the JVM stays resident and runs every <code>*.job</code> manifest dropped in
+ * the spool directory, so class loading and JIT compilation are paid once
+ * instead of once per file. Job files should be written under another name and
+ * renamed to <code>*.job</code> when complete. After a job file is processed it
+ * is renamed to <code>*.done</code> or <code>*.failed</code> and its report is
+ * written next to it as <code>*.out</code>.
+ *
+ * @version 1.0
+ * @since 2026-10-19
+ */
+
+public class NormalizerCli {
+
+	static final int EXIT_OK = 0;
+
+	static final int EXIT_FAILED = 1;
+
+	static final int EXIT_USAGE = 2;
+
+	private static final String JOB_SUFFIX = ".job";
+
+	private final Normalizer normalizer = new NormalizerImpl();
+
+	public static void main(String[] args) {
+		System.exit(new NormalizerCli().run(args, System.out, System.err));
+	}
+
+	/**
+	 * run the command given in the arguments.
+	 *
+	 * @param args the command-line arguments
+	 * @param out  stream the job summaries are printed to
+	 * @param err  stream the errors are printed to
+	 * @return the exit code
+	 */
+
+	int run(String[] args, PrintStream out, PrintStream err) {
+		if (args.length == 0) {
+			printUsage(err);
+			return EXIT_USAGE;
+		}
+		try {
+			switch (args[0]) {
+			case "manifest":
+				if (args.length != 2)
+					break;
+				return runManifest(Paths.get(args[1]), out, err) ? EXIT_OK : EXIT_FAILED;
+			case "daemon":
+				if (args.length != 2)
+					break;
+				runDaemon(Paths.get(args[1]), err);
+				return EXIT_OK;
+			case "zscore":
+			case "minmax":
+				if (args.length != 4 && args.length != 5)
+					break;
+				return runJob(Arrays.asList(args), Paths.get(""), out, err) ? EXIT_OK : EXIT_FAILED;
+			default:
+				break;
+			}
+		} catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+			err.println(e);
+			return EXIT_FAILED;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return EXIT_OK;
+		}
+		printUsage(err);
+		return EXIT_USAGE;
+	}
+
+	/**
+	 * run every job in a manifest file, a failing job does not stop the
+	 * following ones. Relative paths are resolved against the directory of the
+	 * manifest.
+	 *
+	 * @return true if all the jobs succeeded
+	 */
+
+	boolean runManifest(Path manifest, PrintStream out, PrintStream err) throws IOException {
+		Path baseDirectory = manifest.toAbsolutePath().getParent();
+		boolean succeeded = true;
+		int lineNumber = 0;
+		for (String line : Files.readAllLines(manifest)) {
+			lineNumber++;
+			String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("#"))
+				continue;
+
+			List<String> fields = Arrays.asList(trimmed.split("\\s+"));
+			if (fields.size() != 4 && fields.size() != 5) {
+				err.println(manifest + ":" + lineNumber
+						+ ": expected <method> <source> <destination> <column> [checkpoint]");
+				succeeded = false;
+				continue;
+			}
+			succeeded &= runJob(fields, baseDirectory, out, err);
+		}
+		return succeeded;
+	}
+
+	/**
+	 * run the job files found in the spool directory, then keep watching it for
+	 * new ones until the thread is interrupted.
+	 */
+
+	void runDaemon(Path spool, PrintStream err) throws IOException, InterruptedException {
+		if (!Files.isDirectory(spool))
+			throw new IllegalArgumentException("spool directory " + spool + " not found");
+
+		try (WatchService watcher = spool.getFileSystem().newWatchService()) {
+			// Register before the first scan so files dropped in between are not missed
+			spool.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+			processSpool(spool, err);
+			while (true) {
+				WatchKey key = watcher.take();
+				key.pollEvents();
+				processSpool(spool, err);
+				if (!key.reset())
+					throw new IOException("spool directory " + spool + " is no longer accessible");
+			}
+		}
+	}
+
+	/**
+	 * run the job files currently in the spool directory. A job file that cannot
+	 * be processed is reported and marked failed when possible, without stopping
+	 * the following ones.
+	 *
+	 * @return the number of job files processed
+	 */
+
+	int processSpool(Path spool, PrintStream err) throws IOException {
+		List<Path> jobFiles = new ArrayList<Path>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(spool, "*" + JOB_SUFFIX)) {
+			for (Path jobFile : stream) {
+				jobFiles.add(jobFile);
+			}
+		}
+		jobFiles.sort(null);
+
+		for (Path jobFile : jobFiles) {
+			String name = jobFile.getFileName().toString();
+			String baseName = name.substring(0, name.length() - JOB_SUFFIX.length());
+			Path report = spool.resolve(baseName + ".out");
+
+			try {
+				boolean succeeded;
+				try (PrintStream reportStream = new PrintStream(Files.newOutputStream(report))) {
+					try {
+						succeeded = runManifest(jobFile, reportStream, reportStream);
+					} catch (IOException | UncheckedIOException e) {
+						reportStream.println(e);
+						succeeded = false;
+					}
+				}
+				Path processed = spool.resolve(baseName + (succeeded ? ".done" : ".failed"));
+				Files.move(jobFile, processed, StandardCopyOption.REPLACE_EXISTING);
+				if (!succeeded)
+					err.println("job " + name + " failed, see " + report);
+			} catch (IOException | RuntimeException e) {
+				err.println("job " + name + " failed: " + e);
+				markFailed(jobFile, spool.resolve(baseName + ".failed"), err);
+			}
+		}
+		return jobFiles.size();
+	}
+
+	/**
+	 * rename a job file that could not be processed, so it is not picked up
+	 * again by the next scan.
+	 */
+
+	private void markFailed(Path jobFile, Path failed, PrintStream err) {
+		try {
+			if (Files.exists(jobFile))
+				Files.move(jobFile, failed, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			err.println("cannot mark " + jobFile + " failed: " + e);
+		}
+	}
+
+	/**
+	 * run a single job and print its summary.
+	 *
+	 * @param fields        method, source, destination, column and optional
+	 *                      checkpoint
+	 * @param baseDirectory directory relative paths are resolved against
+	 * @return true if the job succeeded
+	 */
+
+	private boolean runJob(List<String> fields, Path baseDirectory, PrintStream out, PrintStream err) {
+		String method = fields.get(0);
+		String source = fields.get(1);
+		String destination = fields.get(2);
+		String column = fields.get(3);
+
+		try {
+			Path sourcePath = baseDirectory.resolve(source);
+			Path destPath = baseDirectory.resolve(destination);
+			Normalizer jobNormalizer = fields.size() == 5
+					? new CheckpointedNormalizer(baseDirectory.resolve(fields.get(4)))
+					: normalizer;
+
+			ScoringSummary summary;
+			if ("zscore".equals(method))
+				summary = jobNormalizer.zscore(sourcePath, destPath, column);
+			else if ("minmax".equals(method))
+				summary = jobNormalizer.minMaxScaling(sourcePath, destPath, column);
+			else
+				throw new IllegalArgumentException("unknown method " + method);
+
+			out.println(method + " " + source + " -> " + destination + ": mean=" + summary.mean()
+					+ " standardDeviation=" + summary.standardDeviation() + " variance=" + summary.variance()
+					+ " median=" + summary.median() + " min=" + summary.min() + " max=" + summary.max());
+			return true;
+		} catch (RuntimeException e) {
+			err.println(method + " " + source + " -> " + destination + ": " + e);
+			return false;
+		}
+	}
+
+	private void printUsage(PrintStream err) {
+		err.println("usage: zscore|minmax <source> <destination> <column> [checkpoint]");
+		err.println("       manifest <file>");
+		err.println("       daemon <spool-directory>");
+	}
+}
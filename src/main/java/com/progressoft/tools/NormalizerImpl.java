@@ -6,6 +6,7 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
@@ -155,6 +156,8 @@ public class NormalizerImpl implements Normalizer {
 
 		// Get All Lines inside CSV
 		List<List<String>> lines = getLinesFromCsv(csvPath);
+		if (lines.isEmpty())
+			throw new IllegalArgumentException("source file " + csvPath + " is empty");
 
 		// Check if column name is exist in the fist line(titles)
 		if (!lines.get(0).contains(colToNormalize))
@@ -167,6 +170,8 @@ public class NormalizerImpl implements Normalizer {
 	 * get the lines from the source csv file.
 	 *
 	 * @return The lines as a list of list of strings.
+	 * @throws IllegalArgumentException If the source file is not found.
+	 * @throws UncheckedIOException     If reading the source file fails.
 	 */
 
 	public List<List<String>> getLinesFromCsv(Path csvPath) {
@@ -180,9 +185,9 @@ public class NormalizerImpl implements Normalizer {
 				lines.add(values);
 			}
 		} catch (FileNotFoundException e) {
-			System.out.println(e);
+			throw new IllegalArgumentException("source file " + csvPath + " not found");
 		} catch (IOException e) {
-			e.printStackTrace();
+			throw new UncheckedIOException(e);
 		}
 		return lines;
 	}
@@ -197,14 +202,26 @@ public class NormalizerImpl implements Normalizer {
 	private List<BigDecimal> convertListFromStringToBigDecimal(List<String> valuesOfColumnToStandardize) {
 		List<BigDecimal> valuesInsideCol = new ArrayList<BigDecimal>();
 		for (String value : valuesOfColumnToStandardize) {
-			valuesInsideCol.add(new BigDecimal(value, new MathContext(Integer.parseInt(value))));
+			valuesInsideCol.add(toBigDecimal(value));
 		}
 		return valuesInsideCol;
 	}
 
+	/**
+	 * convert a single column value from string to BigDecimal.
+	 *
+	 * @param value the value as string
+	 * @return the converted value as BigDecimal
+	 */
+
+	static BigDecimal toBigDecimal(String value) {
+		return new BigDecimal(value, new MathContext(Integer.parseInt(value)));
+	}
+
 	/**
 	 * set the lines in the new csv file.
 	 *
+	 * @throws UncheckedIOException If the destination file cannot be written.
 	 */
 
 	public void setLinesInCsv(Path destPath, List<List<String>> lines) {
@@ -212,8 +229,11 @@ public class NormalizerImpl implements Normalizer {
 			for (List<String> lineWrite : lines) {
 				write.println(String.join(",", lineWrite));
 			}
+			// PrintWriter does not throw on write errors
+			if (write.checkError())
+				throw new IOException("cannot write " + destPath);
 		} catch (IOException exe) {
-			System.out.println("Cannot create file");
+			throw new UncheckedIOException("cannot create file " + destPath, exe);
 		}
 	}
 
@@ -53,7 +53,18 @@ public class ScoringSummaryImpl implements ScoringSummary {
 
 	@Override
 	public BigDecimal standardDeviation() {
-		double standard = Math.sqrt(variance().doubleValue());
+		return standardDeviationOf(variance());
+	}
+
+	/**
+	 * Calculates the standard deviation from an already calculated variance.
+	 *
+	 * @param variance The variance of the dataset.
+	 * @return The standard deviation of the dataset as a BigDecimal.
+	 */
+
+	static BigDecimal standardDeviationOf(BigDecimal variance) {
+		double standard = Math.sqrt(variance.doubleValue());
 		BigDecimal standardDeviation = new BigDecimal(standard);
 		standardDeviation = standardDeviation.setScale(2, RoundingMode.HALF_UP);
 		return standardDeviation;
@@ -68,8 +79,9 @@ public class ScoringSummaryImpl implements ScoringSummary {
 	@Override
 	public BigDecimal variance() {
 		List<BigDecimal> squares = new ArrayList<BigDecimal>();
+		BigDecimal mean = mean();
 		for (BigDecimal value : values) {
-			BigDecimal XminMean = value.subtract(mean());
+			BigDecimal XminMean = value.subtract(mean);
 			squares.add(XminMean.pow(2));
 		}
 		BigDecimal sum = sum(squares);
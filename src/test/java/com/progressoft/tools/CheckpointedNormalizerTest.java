@@ -0,0 +1,179 @@
+package com.progressoft.tools;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+public class CheckpointedNormalizerTest {
+
+	@Test
+	public void givenEmployeesCSVFile_whenSalaryColumnIsZScored_thenOutputIsIdenticalToNormalizerImpl()
+			throws IOException {
+		Path induction = Files.createTempDirectory("induction");
+		Path csvPath = copyFile("/employees.csv", induction.resolve("employees.csv"));
+		Path expectedPath = induction.resolve("expected.csv");
+		Path destPath = induction.resolve("employees_scaled.csv");
+		Path checkpointPath = induction.resolve("job.checkpoint");
+
+		new NormalizerImpl().zscore(csvPath, expectedPath, "salary");
+		ScoringSummary summary = new CheckpointedNormalizer(checkpointPath, 5).zscore(csvPath, destPath, "salary");
+
+		Assertions.assertEquals(new BigDecimal("1702.00"), summary.mean(), "invalid mean");
+		Assertions.assertEquals(new BigDecimal("785.19"), summary.standardDeviation(), "invalid standard deviation");
+		Assertions.assertEquals(new BigDecimal("1758.00"), summary.median(), "invalid median");
+		Assertions.assertArrayEquals(Files.readAllBytes(expectedPath), Files.readAllBytes(destPath));
+		Assertions.assertFalse(Files.exists(checkpointPath), "the checkpoint is not removed");
+	}
+
+	@Test
+	public void givenInterruptedMinMaxScaling_whenJobIsRestarted_thenItResumesFromCheckpoint() throws IOException {
+		Path induction = Files.createTempDirectory("induction");
+		Path csvPath = copyFile("/marks.csv", induction.resolve("marks.csv"));
+		Path expectedPath = induction.resolve("expected.csv");
+		Path destPath = induction.resolve("marks_scaled.csv");
+		Path checkpointPath = induction.resolve("job.checkpoint");
+
+		new NormalizerImpl().minMaxScaling(csvPath, expectedPath, "mark");
+		byte[] expected = Files.readAllBytes(expectedPath);
+		Properties checkpoint = statisticsCheckpoint(checkpointPath, destPath,
+				normalizer -> normalizer.minMaxScaling(csvPath, destPath, "mark"));
+
+		// state of a run interrupted after its checkpoint at line 21, with part of the next line written
+		int outputLength = offsetAfterLines(expected, 21);
+		Files.write(destPath, Arrays.copyOf(expected, outputLength));
+		Files.write(destPath, "partial line".getBytes(), StandardOpenOption.APPEND);
+		checkpoint.setProperty(CheckpointedNormalizer.INPUT_OFFSET,
+				Integer.toString(offsetAfterLines(Files.readAllBytes(csvPath), 21)));
+		checkpoint.setProperty(CheckpointedNormalizer.OUTPUT_LENGTH, Integer.toString(outputLength));
+		storeCheckpoint(checkpoint, checkpointPath);
+
+		ScoringSummary summary = new CheckpointedNormalizer(checkpointPath, 7).minMaxScaling(csvPath, destPath,
+				"mark");
+
+		Assertions.assertEquals(new BigDecimal("40.00"), summary.min(), "invalid min value");
+		Assertions.assertEquals(new BigDecimal("95.00"), summary.max(), "invalid maximum value");
+		Assertions.assertArrayEquals(expected, Files.readAllBytes(destPath));
+		Assertions.assertFalse(Files.exists(checkpointPath), "the checkpoint is not removed");
+	}
+
+	@Test
+	public void givenIncompleteCheckpoint_whenJobIsRestarted_thenItStartsOver() throws IOException {
+		Path induction = Files.createTempDirectory("induction");
+		Path csvPath = copyFile("/marks.csv", induction.resolve("marks.csv"));
+		Path expectedPath = induction.resolve("expected.csv");
+		Path destPath = induction.resolve("marks_scaled.csv");
+		Path checkpointPath = induction.resolve("job.checkpoint");
+
+		new NormalizerImpl().zscore(csvPath, expectedPath, "mark");
+		Properties checkpoint = statisticsCheckpoint(checkpointPath, destPath,
+				normalizer -> normalizer.zscore(csvPath, destPath, "mark"));
+		Files.write(destPath, "partial line".getBytes());
+		checkpoint.remove(CheckpointedNormalizer.INPUT_OFFSET);
+		checkpoint.setProperty(CheckpointedNormalizer.OUTPUT_LENGTH, "12");
+		storeCheckpoint(checkpoint, checkpointPath);
+
+		new CheckpointedNormalizer(checkpointPath).zscore(csvPath, destPath, "mark");
+
+		Assertions.assertArrayEquals(Files.readAllBytes(expectedPath), Files.readAllBytes(destPath));
+		Assertions.assertFalse(Files.exists(checkpointPath), "the checkpoint is not removed");
+	}
+
+	@Test
+	public void givenMixedLineEndings_whenZScored_thenOutputIsIdenticalToNormalizerImpl() throws IOException {
+		Path induction = Files.createTempDirectory("induction");
+		Path csvPath = induction.resolve("marks.csv");
+		Path expectedPath = induction.resolve("expected.csv");
+		Path destPath = induction.resolve("marks_scaled.csv");
+		Path checkpointPath = induction.resolve("job.checkpoint");
+
+		// CRLF, bare CR and LF line endings, with no terminator on the last line
+		List<String> lines = Files.readAllLines(copyFile("/marks.csv", induction.resolve("source.csv")));
+		String[] terminators = { "\r\n", "\r", "\n" };
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < lines.size(); i++) {
+			content.append(lines.get(i));
+			if (i < lines.size() - 1)
+				content.append(terminators[i % terminators.length]);
+		}
+		Files.write(csvPath, content.toString().getBytes());
+
+		new NormalizerImpl().zscore(csvPath, expectedPath, "mark");
+		new CheckpointedNormalizer(checkpointPath, 2).zscore(csvPath, destPath, "mark");
+
+		Assertions.assertArrayEquals(Files.readAllBytes(expectedPath), Files.readAllBytes(destPath));
+		Assertions.assertFalse(Files.exists(checkpointPath), "the checkpoint is not removed");
+	}
+
+	@Test
+	public void givenInvalidInput_whenZscore_thenThrowException() throws IOException {
+		Path induction = Files.createTempDirectory("induction");
+		Path csvPath = copyFile("/marks.csv", induction.resolve("marks.csv"));
+		Normalizer normalizer = new CheckpointedNormalizer(induction.resolve("job.checkpoint"));
+
+		IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> normalizer.zscore(csvPath, null, "mark"));
+		Assertions.assertEquals("destination path is null", exception.getMessage());
+
+		exception = Assertions.assertThrows(IllegalArgumentException.class,
+				() -> normalizer.zscore(csvPath, induction.resolve("target.csv"), "Salary"));
+		Assertions.assertEquals("column Salary not found", exception.getMessage());
+	}
+
+	/**
+	 * checkpoint saved by a run of the job interrupted right after its statistics
+	 * pass. The destination is a directory during that run, so writing the first
+	 * line fails.
+	 */
+
+	private Properties statisticsCheckpoint(Path checkpointPath, Path destPath, Consumer<Normalizer> job)
+			throws IOException {
+		Files.createDirectory(destPath);
+		Assertions.assertThrows(UncheckedIOException.class, () -> job.accept(new CheckpointedNormalizer(checkpointPath)));
+		Files.delete(destPath);
+
+		Properties checkpoint = new Properties();
+		try (InputStream is = Files.newInputStream(checkpointPath)) {
+			checkpoint.load(is);
+		}
+		return checkpoint;
+	}
+
+	private void storeCheckpoint(Properties checkpoint, Path checkpointPath) throws IOException {
+		try (OutputStream os = Files.newOutputStream(checkpointPath)) {
+			checkpoint.store(os, null);
+		}
+	}
+
+	private int offsetAfterLines(byte[] content, int lines) {
+		int offset = 0;
+		for (int line = 0; line < lines; offset++) {
+			if (content[offset] == '\n')
+				line++;
+		}
+		return offset;
+	}
+
+	private final Path copyFile(String resource, Path path) throws IOException {
+		try (InputStream is = this.getClass().getResourceAsStream(resource)) {
+			try (OutputStream os = Files.newOutputStream(path)) {
+				int b;
+				while ((b = is.read()) != -1) {
+					os.write(b);
+				}
+			}
+		}
+		return path;
+	}
+}
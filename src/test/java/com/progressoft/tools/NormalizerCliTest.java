@@ -0,0 +1,140 @@
+package com.progressoft.tools;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class NormalizerCliTest {
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+	@Test
+	public void givenJobArguments_whenRun_thenDestinationIsGenerated() throws IOException {
+		Path induction = Files.createTempDirectory("induction");
+		Path csvPath = copyFile("/marks.csv", induction.resolve("marks.csv"));
+		Path destPath = induction.resolve("marks_scaled.csv");
+
+		int exitCode = run("zscore", csvPath.toString(), destPath.toString(), "mark");
+
+		Assertions.assertEquals(NormalizerCli.EXIT_OK, exitCode, err.toString());
+		Assertions.assertTrue(out.toString().contains("mean=66.00"), "summary is not printed");
+		Path assertionPath = copyFile("/marks_z.csv", induction.resolve("marks_z.csv"));
+		Assertions.assertEquals(Files.readAllLines(assertionPath), Files.readAllLines(destPath));
+	}
+
+	@Test
+	public void givenInvalidArguments_whenRun_thenUsageIsPrinted() {
+		Assertions.assertEquals(NormalizerCli.EXIT_USAGE, run());
+		Assertions.assertEquals(NormalizerCli.EXIT_USAGE, run("zscore", "marks.csv"));
+		Assertions.assertEquals(NormalizerCli.EXIT_USAGE, run("foo", "a", "b", "c"));
+		Assertions.assertTrue(err.toString().startsWith("usage:"), "usage is not printed");
+	}
+
+	@Test
+	public void givenManifest_whenRun_thenEveryJobIsRun() throws IOException {
+		Path induction = Files.createTempDirectory("induction");
+		Path marks = copyFile("/marks.csv", induction.resolve("marks.csv"));
+		Path employees = copyFile("/employees.csv", induction.resolve("employees.csv"));
+		Path marksDest = induction.resolve("marks_scaled.csv");
+		Path employeesDest = induction.resolve("employees_scaled.csv");
+		Path manifest = induction.resolve("jobs.txt");
+		Files.write(manifest, Arrays.asList("# nightly jobs", "",
+				"minmax " + marks + " " + marksDest + " mark",
+				"zscore " + employees + " " + employeesDest + " salary " + induction.resolve("employees.checkpoint")));
+
+		int exitCode = run("manifest", manifest.toString());
+
+		Assertions.assertEquals(NormalizerCli.EXIT_OK, exitCode, err.toString());
+		Path marksExpected = copyFile("/marks_mm.csv", induction.resolve("marks_mm.csv"));
+		Path employeesExpected = copyFile("/employees_z.csv", induction.resolve("employees_z.csv"));
+		Assertions.assertEquals(Files.readAllLines(marksExpected), Files.readAllLines(marksDest));
+		Assertions.assertEquals(Files.readAllLines(employeesExpected), Files.readAllLines(employeesDest));
+	}
+
+	@Test
+	public void givenJobFilesInSpool_whenProcessed_thenTheyAreMarkedDoneOrFailed() throws IOException {
+		Path spool = Files.createTempDirectory("spool");
+		Path csvPath = copyFile("/marks.csv", spool.resolve("marks.csv"));
+		Path destPath = spool.resolve("marks_scaled.csv");
+		Files.write(spool.resolve("good.job"), Arrays.asList("zscore " + csvPath + " " + destPath + " mark"));
+		Files.write(spool.resolve("bad.job"), Arrays.asList("zscore " + csvPath + " " + destPath + " Salary"));
+
+		int processed = new NormalizerCli().processSpool(spool, new PrintStream(err));
+
+		Assertions.assertEquals(2, processed);
+		Assertions.assertTrue(Files.exists(spool.resolve("good.done")), "good job is not marked done");
+		Assertions.assertTrue(Files.exists(spool.resolve("bad.failed")), "bad job is not marked failed");
+		List<String> report = Files.readAllLines(spool.resolve("bad.out"));
+		Assertions.assertTrue(report.get(0).contains("column Salary not found"), "failure is not reported");
+		Assertions.assertTrue(Files.exists(destPath), "the destination file does not exists");
+	}
+
+	@Test
+	public void givenMalformedJobNextToValidOne_whenSpoolIsProcessed_thenValidJobStillRuns() throws IOException {
+		Path spool = Files.createTempDirectory("spool");
+		copyFile("/marks.csv", spool.resolve("marks.csv"));
+		Files.write(spool.resolve("a.job"), Arrays.asList("zscore marks.csv bad\u0000name.csv mark"));
+		Files.write(spool.resolve("b.job"), Arrays.asList("zscore marks.csv marks_scaled.csv mark"));
+
+		int processed = new NormalizerCli().processSpool(spool, new PrintStream(err));
+
+		Assertions.assertEquals(2, processed);
+		Assertions.assertTrue(Files.exists(spool.resolve("a.failed")), "malformed job is not marked failed");
+		Assertions.assertTrue(Files.exists(spool.resolve("b.done")), "valid job is not marked done");
+		Path assertionPath = copyFile("/marks_z.csv", spool.resolve("marks_z.csv"));
+		Assertions.assertEquals(Files.readAllLines(assertionPath),
+				Files.readAllLines(spool.resolve("marks_scaled.csv")));
+	}
+
+	@Test
+	public void givenMissingSource_whenRun_thenJobFails() throws IOException {
+		Path induction = Files.createTempDirectory("induction");
+		Path destPath = induction.resolve("marks_scaled.csv");
+
+		int exitCode = run("zscore", induction.resolve("missing.csv").toString(), destPath.toString(), "mark");
+
+		Assertions.assertEquals(NormalizerCli.EXIT_FAILED, exitCode);
+		Assertions.assertTrue(err.toString().contains("missing.csv not found"), "failure is not reported");
+		Assertions.assertFalse(Files.exists(destPath), "the destination file is generated");
+	}
+
+	@Test
+	public void givenUnwritableDestination_whenSpoolIsProcessed_thenJobIsMarkedFailed() throws IOException {
+		Path spool = Files.createTempDirectory("spool");
+		copyFile("/marks.csv", spool.resolve("marks.csv"));
+		Files.write(spool.resolve("a.job"), Arrays.asList("zscore marks.csv missing/marks_scaled.csv mark"));
+
+		new NormalizerCli().processSpool(spool, new PrintStream(err));
+
+		Assertions.assertTrue(Files.exists(spool.resolve("a.failed")), "job is not marked failed");
+		List<String> report = Files.readAllLines(spool.resolve("a.out"));
+		Assertions.assertTrue(report.get(0).contains("cannot create file"), "failure is not reported");
+	}
+
+	private int run(String... args) {
+		return new NormalizerCli().run(args, new PrintStream(out), new PrintStream(err));
+	}
+
+	private final Path copyFile(String resource, Path path) throws IOException {
+		try (InputStream is = this.getClass().getResourceAsStream(resource)) {
+			try (OutputStream os = Files.newOutputStream(path)) {
+				int b;
+				while ((b = is.read()) != -1) {
+					os.write(b);
+				}
+			}
+		}
+		return path;
+	}
+}